@@ -0,0 +1,151 @@
+package com.keeply.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementacao local de {@link SharedStateStore}. Serve para uma unica instancia
+ * (desenvolvimento) e nao compartilha nada entre replicas.
+ */
+public final class InMemorySharedStateStore implements SharedStateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySharedStateStore.class);
+    private static final int SWEEP_EVERY_WRITES = 1024;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSinceSweep = new AtomicInteger();
+    private final LongSupplier nanoTime;
+
+    public InMemorySharedStateStore() {
+        this(System::nanoTime);
+    }
+
+    InMemorySharedStateStore(LongSupplier nanoTime) {
+        this.nanoTime = Objects.requireNonNull(nanoTime);
+    }
+
+    @Override
+    public long increment(String key, long delta, Duration ttl) {
+        Objects.requireNonNull(key);
+        Entry updated = entries.compute(key, (k, current) -> {
+            long now = nanoTime.getAsLong();
+            if (current == null || current.isExpired(now)) {
+                return new Entry(Long.toString(delta), expiresAt(now, ttl));
+            }
+            long expiresAt = current.expiresAtNanos() == Long.MAX_VALUE ? expiresAt(now, ttl) : current.expiresAtNanos();
+            return new Entry(Long.toString(Math.addExact(parseCounter(k, current.value()), delta)), expiresAt);
+        });
+        afterWrite();
+        return Long.parseLong(updated.value());
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return Optional.empty();
+        if (entry.isExpired(nanoTime.getAsLong())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        entries.put(key, new Entry(value, expiresAt(nanoTime.getAsLong(), ttl)));
+        afterWrite();
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, String value, Duration ttl) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        AtomicBoolean written = new AtomicBoolean();
+        entries.compute(key, (k, current) -> {
+            long now = nanoTime.getAsLong();
+            if (current != null && !current.isExpired(now)) return current;
+            written.set(true);
+            return new Entry(value, expiresAt(now, ttl));
+        });
+        afterWrite();
+        return written.get();
+    }
+
+    @Override
+    public boolean delete(String key) {
+        Entry removed = entries.remove(key);
+        return removed != null && !removed.isExpired(nanoTime.getAsLong());
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        List<Consumer<String>> channelListeners = listeners.get(channel);
+        if (channelListeners == null) return;
+        // Como no Redis, falha de um listener nao chega a quem publica nem impede os demais.
+        for (Consumer<String> listener : channelListeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.error("Listener do canal {} falhou.", channel, e);
+            }
+        }
+    }
+
+    @Override
+    public Subscription subscribe(String channel, Consumer<String> listener) {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(listener);
+        // O add fica dentro do compute para nao cair numa lista que um close concorrente acabou de remover.
+        listeners.compute(channel, (c, current) -> {
+            List<Consumer<String>> channelListeners = current == null ? new CopyOnWriteArrayList<>() : current;
+            channelListeners.add(listener);
+            return channelListeners;
+        });
+        return () -> listeners.computeIfPresent(channel, (c, current) -> {
+            current.remove(listener);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    // Chaves expiradas que ninguem le de novo sao removidas a cada SWEEP_EVERY_WRITES escritas (nao ha timer).
+    private void afterWrite() {
+        if (writesSinceSweep.incrementAndGet() < SWEEP_EVERY_WRITES) return;
+        writesSinceSweep.set(0);
+        long now = nanoTime.getAsLong();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private static long parseCounter(String key, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Valor nao numerico na chave: " + key);
+        }
+    }
+
+    private static long expiresAt(long now, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) return Long.MAX_VALUE;
+        return now + ttl.toNanos();
+    }
+
+    private record Entry(String value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return expiresAtNanos != Long.MAX_VALUE && now - expiresAtNanos >= 0;
+        }
+    }
+}
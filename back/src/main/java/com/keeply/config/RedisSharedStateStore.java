@@ -0,0 +1,105 @@
+package com.keeply.config;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Implementacao de {@link SharedStateStore} sobre Redis, compartilhada por todas as replicas.
+ * Todas as chaves e canais recebem o prefixo configurado para isolar ambientes no mesmo servidor.
+ */
+public final class RedisSharedStateStore implements SharedStateStore {
+
+    // INCRBY + PEXPIRE na mesma operacao, para o TTL nunca ficar de fora se a replica cair no meio.
+    // PTTL == -1 identifica chave sem expiracao; contadores que ja expiram (mesmo de volta a 0) mantem o TTL.
+    private static final RedisScript<Long> INCREMENT_WITH_TTL = RedisScript.of("""
+            local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if tonumber(ARGV[2]) > 0 and redis.call('PTTL', KEYS[1]) == -1 then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return v
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String prefix;
+
+    public RedisSharedStateStore(StringRedisTemplate redis,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 String prefix) {
+        this.redis = Objects.requireNonNull(redis);
+        this.listenerContainer = Objects.requireNonNull(listenerContainer);
+        this.prefix = prefix == null ? "" : prefix;
+    }
+
+    @Override
+    public long increment(String key, long delta, Duration ttl) {
+        Long value = redis.execute(INCREMENT_WITH_TTL, List.of(prefixed(key)),
+                Long.toString(delta), Long.toString(ttlMillis(ttl)));
+        if (value == null) throw new IllegalStateException("Redis nao retornou valor para o contador: " + key);
+        return value;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redis.opsForValue().get(prefixed(key)));
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        long ttlMillis = ttlMillis(ttl);
+        if (ttlMillis > 0) {
+            redis.opsForValue().set(prefixed(key), value, Duration.ofMillis(ttlMillis));
+        } else {
+            redis.opsForValue().set(prefixed(key), value);
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, String value, Duration ttl) {
+        long ttlMillis = ttlMillis(ttl);
+        Boolean written = ttlMillis > 0
+                ? redis.opsForValue().setIfAbsent(prefixed(key), value, Duration.ofMillis(ttlMillis))
+                : redis.opsForValue().setIfAbsent(prefixed(key), value);
+        return Boolean.TRUE.equals(written);
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return Boolean.TRUE.equals(redis.delete(prefixed(key)));
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        redis.convertAndSend(prefixed(channel), message);
+    }
+
+    @Override
+    public Subscription subscribe(String channel, Consumer<String> listener) {
+        Objects.requireNonNull(listener);
+        ChannelTopic topic = new ChannelTopic(prefixed(channel));
+        MessageListener adapter = (Message message, byte[] pattern) ->
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+        listenerContainer.addMessageListener(adapter, topic);
+        return () -> listenerContainer.removeMessageListener(adapter, topic);
+    }
+
+    private String prefixed(String key) {
+        return prefix + Objects.requireNonNull(key);
+    }
+
+    private static long ttlMillis(Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) return 0;
+        return Math.max(1, ttl.toMillis());
+    }
+}
@@ -0,0 +1,95 @@
+package com.keeply.config;
+
+import io.lettuce.core.RedisURI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@EnableConfigurationProperties(SharedStateProperties.class)
+public class SharedStateConfig {
+
+    @Bean
+    @Conditional(MemoryMode.class)
+    SharedStateStore inMemorySharedStateStore() {
+        return new InMemorySharedStateStore();
+    }
+
+    // RedisAutoConfiguration fica excluida em application.properties; o cliente so e criado aqui,
+    // no modo redis, para instancias unicas nao montarem uma conexao que nunca usam.
+    @Configuration
+    @Conditional(RedisMode.class)
+    static class Redis {
+
+        @Bean
+        LettuceConnectionFactory sharedStateConnectionFactory(@Value("${spring.data.redis.url}") String redisUrl) {
+            var uri = RedisURI.create(redisUrl);
+            var clientConfiguration = uri.isSsl()
+                    ? LettuceClientConfiguration.builder().useSsl().build()
+                    : LettuceClientConfiguration.defaultConfiguration();
+            return new LettuceConnectionFactory(LettuceConnectionFactory.createRedisConfiguration(uri), clientConfiguration);
+        }
+
+        @Bean
+        StringRedisTemplate sharedStateRedisTemplate(RedisConnectionFactory connectionFactory) {
+            return new StringRedisTemplate(connectionFactory);
+        }
+
+        @Bean
+        RedisMessageListenerContainer sharedStateListenerContainer(RedisConnectionFactory connectionFactory) {
+            var container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.setTaskExecutor(new VirtualThreadTaskExecutor("shared-state-"));
+            return container;
+        }
+
+        @Bean
+        SharedStateStore redisSharedStateStore(StringRedisTemplate redisTemplate,
+                                               RedisMessageListenerContainer sharedStateListenerContainer,
+                                               SharedStateProperties properties) {
+            return new RedisSharedStateStore(redisTemplate, sharedStateListenerContainer, properties.keyPrefix());
+        }
+    }
+
+    // Le o modo ja vinculado em SharedStateProperties, para a escolha do store nunca divergir dele.
+    private abstract static class ModeCondition implements Condition {
+
+        private final SharedStateProperties.Mode mode;
+
+        ModeCondition(SharedStateProperties.Mode mode) {
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            SharedStateProperties properties = Binder.get(context.getEnvironment())
+                    .bind("app.shared-state", SharedStateProperties.class)
+                    .orElseGet(() -> new SharedStateProperties(null, null));
+            return properties.mode() == mode;
+        }
+    }
+
+    static final class MemoryMode extends ModeCondition {
+        MemoryMode() {
+            super(SharedStateProperties.Mode.MEMORY);
+        }
+    }
+
+    static final class RedisMode extends ModeCondition {
+        RedisMode() {
+            super(SharedStateProperties.Mode.REDIS);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.keeply.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuracao de {@code app.shared-state}. O modo e um enum para que um valor invalido
+ * (ex.: "rediss") derrube a aplicacao na subida em vez de deixar o store sem bean.
+ */
+@ConfigurationProperties("app.shared-state")
+public record SharedStateProperties(Mode mode, String keyPrefix) {
+
+    public SharedStateProperties {
+        if (mode == null) mode = Mode.MEMORY;
+        if (keyPrefix == null) keyPrefix = "keeply:";
+    }
+
+    public enum Mode {
+        MEMORY,
+        REDIS
+    }
+}
@@ -0,0 +1,40 @@
+package com.keeply.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Estado compartilhado entre replicas do backend (contadores, chaves com TTL e pub/sub).
+ * Limiters, single-flight e caches devem usar esta abstracao em vez de mapas locais,
+ * para continuarem coerentes quando houver mais de uma instancia atras do load balancer.
+ * Um {@code ttl} nulo ou nao positivo significa "sem expiracao".
+ */
+public interface SharedStateStore {
+
+    /**
+     * Incrementa atomicamente o contador. O TTL e aplicado apenas quando a chave ainda nao
+     * tem expiracao (recem-criada ou gravada sem TTL); uma expiracao existente nunca e renovada.
+     */
+    long increment(String key, long delta, Duration ttl);
+
+    Optional<String> get(String key);
+
+    void put(String key, String value, Duration ttl);
+
+    /** Grava apenas se a chave nao existir; retorna {@code true} se gravou. */
+    boolean putIfAbsent(String key, String value, Duration ttl);
+
+    boolean delete(String key);
+
+    void publish(String channel, String message);
+
+    /** Registra um listener no canal; fechar o retorno cancela a inscricao. */
+    Subscription subscribe(String channel, Consumer<String> listener);
+
+    @FunctionalInterface
+    interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,72 @@
+package com.keeply.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemorySharedStateStoreTest extends SharedStateStoreContractTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final InMemorySharedStateStore store = new InMemorySharedStateStore(now::get);
+
+    @Override
+    SharedStateStore store() {
+        return store;
+    }
+
+    @Override
+    void elapse(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Override
+    void settle() {
+    }
+
+    @Test
+    void keyWithoutTtlNeverExpires() {
+        store.put("k", "v", null);
+
+        elapse(Duration.ofDays(365));
+
+        assertThat(store.get("k")).contains("v");
+    }
+
+    @Test
+    void incrementOnNonNumericValueFails() {
+        store.put("k", "abc", null);
+
+        assertThatThrownBy(() -> store.increment("k", 1, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void failingListenerDoesNotBlockOthersOrReachPublisher() {
+        List<String> received = new ArrayList<>();
+        store.subscribe("ch", message -> {
+            throw new IllegalStateException("boom");
+        });
+        store.subscribe("ch", received::add);
+
+        store.publish("ch", "invalidate");
+
+        assertThat(received).containsExactly("invalidate");
+    }
+
+    @Test
+    void resubscribingAfterLastCloseStillReceivesMessages() {
+        List<String> received = new ArrayList<>();
+        store.subscribe("ch", message -> { }).close();
+        store.subscribe("ch", received::add);
+
+        store.publish("ch", "a");
+
+        assertThat(received).containsExactly("a");
+    }
+}
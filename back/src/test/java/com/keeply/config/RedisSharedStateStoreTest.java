@@ -0,0 +1,113 @@
+package com.keeply.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisSharedStateStoreTest extends SharedStateStoreContractTest {
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+    private static RedisMessageListenerContainer listenerContainer;
+
+    private RedisSharedStateStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        server = RedisServer.newRedisServer().bind("127.0.0.1").port(port).build();
+        server.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (listenerContainer != null) listenerContainer.destroy();
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (server != null) server.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        store = new RedisSharedStateStore(redis, listenerContainer, "test:");
+    }
+
+    @Override
+    SharedStateStore store() {
+        return store;
+    }
+
+    @Override
+    void elapse(Duration duration) throws InterruptedException {
+        Thread.sleep(duration.toMillis());
+    }
+
+    @Override
+    void settle() throws InterruptedException {
+        Thread.sleep(100);
+    }
+
+    @Test
+    void keysAreStoredUnderPrefix() {
+        store.put("k", "v", null);
+
+        assertThat(redis.opsForValue().get("test:k")).isEqualTo("v");
+        assertThat(store.get("k")).contains("v");
+    }
+
+    @Test
+    void incrementAppliesTtlOnCreation() {
+        assertThat(store.increment("c", 3, Duration.ofSeconds(60))).isEqualTo(3);
+
+        assertThat(pttl("c")).isBetween(1L, 60_000L);
+    }
+
+    @Test
+    void incrementDoesNotRenewExistingTtl() {
+        store.increment("c", 1, Duration.ofSeconds(60));
+        redis.expire("test:c", Duration.ofSeconds(5));
+
+        store.increment("c", -1, Duration.ofSeconds(60));
+        store.increment("c", 1, Duration.ofSeconds(60));
+
+        assertThat(pttl("c")).isBetween(1L, 5_000L);
+    }
+
+    private static Long pttl(String key) {
+        return redis.getExpire("test:" + key, TimeUnit.MILLISECONDS);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.keeply.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedStateConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(SharedStateConfig.class);
+
+    @Test
+    void defaultsToInMemoryStore() {
+        runner.run(context -> {
+            assertThat(context).getBean(SharedStateStore.class).isInstanceOf(InMemorySharedStateStore.class);
+            assertThat(context).doesNotHaveBean(RedisConnectionFactory.class);
+        });
+    }
+
+    @Test
+    void emptyModeFallsBackToInMemoryStore() {
+        runner.withPropertyValues("app.shared-state.mode=")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(SharedStateStore.class);
+                    assertThat(context).getBean(SharedStateStore.class).isInstanceOf(InMemorySharedStateStore.class);
+                    assertThat(context.getBean(SharedStateProperties.class).mode())
+                            .isEqualTo(SharedStateProperties.Mode.MEMORY);
+                });
+    }
+
+    @Test
+    void redisModeConfiguresRedisStore() {
+        runner.withPropertyValues("app.shared-state.mode=redis", "spring.data.redis.url=redis://localhost:6379")
+                .run(context -> {
+                    assertThat(context).getBean(SharedStateStore.class).isInstanceOf(RedisSharedStateStore.class);
+                    assertThat(context).hasSingleBean(RedisConnectionFactory.class);
+                });
+    }
+
+    @Test
+    void invalidModeFailsStartup() {
+        runner.withPropertyValues("app.shared-state.mode=rediss")
+                .run(context -> assertThat(context).hasFailed());
+    }
+}
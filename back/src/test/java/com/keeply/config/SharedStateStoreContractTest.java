@@ -0,0 +1,142 @@
+package com.keeply.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contrato comum de {@link SharedStateStore}; cada implementacao estende esta classe,
+ * garantindo o mesmo comportamento em uma instancia e em varias.
+ */
+abstract class SharedStateStoreContractTest {
+
+    static final Duration TTL = Duration.ofMillis(300);
+
+    abstract SharedStateStore store();
+
+    /** Avanca o tempo visto pelo store (relogio falso ou espera real). */
+    abstract void elapse(Duration duration) throws InterruptedException;
+
+    /** Aguarda entregas assincronas de pub/sub. */
+    abstract void settle() throws InterruptedException;
+
+    @Test
+    void keyExpiresAfterTtl() throws InterruptedException {
+        store().put("k", "v", TTL);
+        assertThat(store().get("k")).contains("v");
+
+        elapse(TTL.plusMillis(50));
+
+        assertThat(store().get("k")).isEmpty();
+    }
+
+    @Test
+    void deleteRemovesKey() {
+        store().put("k", "v", null);
+
+        assertThat(store().delete("k")).isTrue();
+        assertThat(store().delete("k")).isFalse();
+        assertThat(store().get("k")).isEmpty();
+    }
+
+    @Test
+    void incrementKeepsOriginalTtlWhenCounterReturnsToZero() throws InterruptedException {
+        assertThat(store().increment("c", 1, TTL)).isEqualTo(1);
+        elapse(TTL.dividedBy(2));
+        assertThat(store().increment("c", -1, TTL)).isZero();
+        assertThat(store().increment("c", 1, TTL)).isEqualTo(1);
+
+        elapse(TTL.dividedBy(2).plusMillis(50));
+
+        assertThat(store().get("c")).isEmpty();
+        assertThat(store().increment("c", 5, TTL)).isEqualTo(5);
+    }
+
+    @Test
+    void incrementAppliesTtlToKeyWithoutExpiry() throws InterruptedException {
+        store().put("c", "0", null);
+
+        assertThat(store().increment("c", 1, TTL)).isEqualTo(1);
+        elapse(TTL.plusMillis(50));
+
+        assertThat(store().get("c")).isEmpty();
+    }
+
+    @Test
+    void incrementWithoutTtlKeepsKey() throws InterruptedException {
+        store().increment("c", 1, null);
+
+        elapse(TTL.plusMillis(50));
+
+        assertThat(store().get("c")).contains("1");
+    }
+
+    @Test
+    void putIfAbsentWinsOnlyOnceUnderContention() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String value = "owner-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return store().putIfAbsent("lock", value, Duration.ofSeconds(30));
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(5, TimeUnit.SECONDS)) winners++;
+            }
+            assertThat(winners).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void putIfAbsentSucceedsAfterPreviousValueExpires() throws InterruptedException {
+        assertThat(store().putIfAbsent("lock", "a", TTL)).isTrue();
+        assertThat(store().putIfAbsent("lock", "b", TTL)).isFalse();
+
+        elapse(TTL.plusMillis(50));
+
+        assertThat(store().putIfAbsent("lock", "b", TTL)).isTrue();
+        assertThat(store().get("lock")).contains("b");
+    }
+
+    @Test
+    void closedSubscriptionStopsReceivingMessages() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        SharedStateStore.Subscription subscription = store().subscribe("ch", received::add);
+
+        // A inscricao pode ser assincrona; publica ate o listener confirmar que esta ativo.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.isEmpty() && System.nanoTime() < deadline) {
+            store().publish("ch", "a");
+            settle();
+        }
+        assertThat(received).contains("a");
+
+        subscription.close();
+        settle();
+        received.clear();
+        store().publish("ch", "b");
+        settle();
+
+        assertThat(received).isEmpty();
+    }
+}